@@ -0,0 +1,58 @@
+package uk.co.metadesignsolutions.javachallenge.external.loadtest;
+
+class EndpointStat {
+    private String endpoint;
+    private Integer requests;
+    private Integer errors;
+    private Double p50Millis;
+    private Double p99Millis;
+    private Double throughputPerSecond;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Integer getRequests() {
+        return requests;
+    }
+
+    public void setRequests(Integer requests) {
+        this.requests = requests;
+    }
+
+    public Integer getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Integer errors) {
+        this.errors = errors;
+    }
+
+    public Double getP50Millis() {
+        return p50Millis;
+    }
+
+    public void setP50Millis(Double p50Millis) {
+        this.p50Millis = p50Millis;
+    }
+
+    public Double getP99Millis() {
+        return p99Millis;
+    }
+
+    public void setP99Millis(Double p99Millis) {
+        this.p99Millis = p99Millis;
+    }
+
+    public Double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public void setThroughputPerSecond(Double throughputPerSecond) {
+        this.throughputPerSecond = throughputPerSecond;
+    }
+}
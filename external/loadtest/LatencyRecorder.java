@@ -0,0 +1,55 @@
+package uk.co.metadesignsolutions.javachallenge.external.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects latencies of successful requests for a single endpoint, failed requests are only counted.
+ * Each worker thread owns its own recorder, recorders are merged once the run is finished.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private int errors;
+
+    void record(long nanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.latencies[i]);
+        }
+        errors += other.errors;
+    }
+
+    EndpointStat toStat(String endpoint, long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+
+        EndpointStat stat = new EndpointStat();
+        stat.setEndpoint(endpoint);
+        stat.setRequests(size + errors);
+        stat.setErrors(errors);
+        stat.setP50Millis(percentile(sorted, 0.50));
+        stat.setP99Millis(percentile(sorted, 0.99));
+        stat.setThroughputPerSecond(size / (elapsedNanos / 1_000_000_000d));
+        return stat;
+    }
+
+    private static Double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            // no successful request, there is no latency to report
+            return null;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000d;
+    }
+}
@@ -0,0 +1,87 @@
+package uk.co.metadesignsolutions.javachallenge.external.loadtest;
+
+import java.util.List;
+
+class LoadTestReport {
+    private String startedAt;
+    private String baseUrl;
+    private Integer artists;
+    private Integer songs;
+    private Integer plays;
+    private Integer threads;
+    private Integer durationSeconds;
+    private Integer requestTimeoutSeconds;
+    private List<EndpointStat> endpoints;
+
+    public String getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(String startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Integer getArtists() {
+        return artists;
+    }
+
+    public void setArtists(Integer artists) {
+        this.artists = artists;
+    }
+
+    public Integer getSongs() {
+        return songs;
+    }
+
+    public void setSongs(Integer songs) {
+        this.songs = songs;
+    }
+
+    public Integer getPlays() {
+        return plays;
+    }
+
+    public void setPlays(Integer plays) {
+        this.plays = plays;
+    }
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    public Integer getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Integer durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public Integer getRequestTimeoutSeconds() {
+        return requestTimeoutSeconds;
+    }
+
+    public void setRequestTimeoutSeconds(Integer requestTimeoutSeconds) {
+        this.requestTimeoutSeconds = requestTimeoutSeconds;
+    }
+
+    public List<EndpointStat> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointStat> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -0,0 +1,268 @@
+package uk.co.metadesignsolutions.javachallenge.external.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds a running Srotify instance with a synthetic catalogue and drives /listen, /trending, /search
+ * and /similar concurrently, printing p50/p99 latency and throughput per endpoint. The optional JSON report
+ * also carries the run configuration so reports from differently sized runs are not compared as equals.
+ *
+ * Configured through system properties:
+ * loadtest.baseUrl, loadtest.artists, loadtest.songs, loadtest.plays, loadtest.threads,
+ * loadtest.durationSeconds, loadtest.requestTimeoutSeconds and loadtest.output (optional JSON report file).
+ */
+public class SrotifyLoadGenerator {
+
+    private static final String[] ENDPOINTS = {"listen", "trending", "search", "similar"};
+    private static final String[] GENRES = {"rock", "punk", "j_pop"};
+    private static final String[] NAME_PARTS = {"ho", "dance", "twinkle", "silhoute", "moon", "river", "kana", "echo"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final int artistCount;
+    private final int songCount;
+    private final int playCount;
+    private final int threads;
+    private final int durationSeconds;
+    private final int requestTimeoutSeconds;
+    private final Duration requestTimeout;
+
+    private final List<Long> songIds = new ArrayList<>();
+    private ZipfSampler songSampler;
+
+    public SrotifyLoadGenerator(String baseUrl, int artistCount, int songCount, int playCount, int threads, int durationSeconds,
+                                int requestTimeoutSeconds) {
+        requireAtLeast("loadtest.artists", artistCount, 1);
+        requireAtLeast("loadtest.songs", songCount, 1);
+        requireAtLeast("loadtest.plays", playCount, 0);
+        requireAtLeast("loadtest.threads", threads, 1);
+        requireAtLeast("loadtest.durationSeconds", durationSeconds, 0);
+        requireAtLeast("loadtest.requestTimeoutSeconds", requestTimeoutSeconds, 1);
+        this.baseUrl = baseUrl;
+        this.artistCount = artistCount;
+        this.songCount = songCount;
+        this.playCount = playCount;
+        this.threads = threads;
+        this.durationSeconds = durationSeconds;
+        this.requestTimeoutSeconds = requestTimeoutSeconds;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+    }
+
+    public static void main(String[] args) throws Exception {
+        SrotifyLoadGenerator generator = new SrotifyLoadGenerator(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.artists", 100),
+                Integer.getInteger("loadtest.songs", 1000),
+                Integer.getInteger("loadtest.plays", 10000),
+                Integer.getInteger("loadtest.threads", 8),
+                Integer.getInteger("loadtest.durationSeconds", 30),
+                Integer.getInteger("loadtest.requestTimeoutSeconds", 10)
+        );
+        LoadTestReport report = generator.newReport();
+        generator.seed();
+        List<EndpointStat> stats = generator.run();
+        report.setEndpoints(stats);
+
+        for (EndpointStat stat : stats) {
+            System.out.println("[BENCH-STAT]  uk.co.mds.SrotifyLoadGenerator *-* " + generator.objectMapper.writeValueAsString(stat));
+        }
+        String output = System.getProperty("loadtest.output");
+        if (output != null && !output.equals("")) {
+            generator.objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(output), report);
+        }
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        List<Long> artistIds = new ArrayList<>();
+        for (int i = 0; i < artistCount; i++) {
+            Map<String, Object> artist = new HashMap<>();
+            artist.put("name", "artist" + i);
+            artistIds.add(readId(send(post("/artist/", artist)), "/artist/"));
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < songCount; i++) {
+            Set<Long> artists = new HashSet<>();
+            int artistsPerSong = 1 + random.nextInt(3);
+            for (int j = 0; j < artistsPerSong; j++) {
+                artists.add(artistIds.get(random.nextInt(artistIds.size())));
+            }
+            Map<String, Object> song = new HashMap<>();
+            song.put("name", NAME_PARTS[random.nextInt(NAME_PARTS.length)] + i);
+            song.put("artists", artists);
+            song.put("genres", Collections.singletonList(GENRES[random.nextInt(GENRES.length)]));
+            song.put("length", String.format("%02d:%02d", 1 + random.nextInt(8), random.nextInt(60)));
+            song.put("url", "http://srotify.test/song/" + i);
+            songIds.add(readId(send(post("/song/", song)), "/song/"));
+        }
+
+        // rank 1 is the most played song, play counts fall off as 1/rank
+        songSampler = new ZipfSampler(songIds.size(), 1.0);
+        for (int i = 0; i < playCount; i++) {
+            send(get("/song/" + songIds.get(songSampler.next(random)) + "/listen"));
+        }
+    }
+
+    public List<EndpointStat> run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        long start = System.nanoTime();
+
+        LatencyRecorder[] merged = newRecorders();
+        long elapsed;
+        try {
+            List<Future<LatencyRecorder[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> drive(offset, deadline)));
+            }
+
+            for (Future<LatencyRecorder[]> future : futures) {
+                LatencyRecorder[] recorders = future.get();
+                for (int i = 0; i < ENDPOINTS.length; i++) {
+                    merged[i].merge(recorders[i]);
+                }
+            }
+            elapsed = System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<EndpointStat> stats = new ArrayList<>();
+        for (int i = 0; i < ENDPOINTS.length; i++) {
+            stats.add(merged[i].toStat(ENDPOINTS[i], elapsed));
+        }
+        return stats;
+    }
+
+    private LatencyRecorder[] drive(int offset, long deadline) {
+        LatencyRecorder[] recorders = newRecorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int iteration = offset;
+        while (System.nanoTime() < deadline) {
+            int endpoint = iteration++ % ENDPOINTS.length;
+            HttpRequest request = requestFor(endpoint, random);
+            long begin = System.nanoTime();
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 200 && status < 300) {
+                    recorders[endpoint].record(System.nanoTime() - begin);
+                } else {
+                    recorders[endpoint].recordError();
+                }
+            } catch (IOException e) {
+                // includes HttpTimeoutException when the server stalls past loadtest.requestTimeoutSeconds
+                recorders[endpoint].recordError();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    private HttpRequest requestFor(int endpoint, Random random) {
+        Long songId = songIds.get(songSampler.next(random));
+        switch (ENDPOINTS[endpoint]) {
+            case "listen":
+                return get("/song/" + songId + "/listen");
+            case "trending":
+                DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+                Map<String, String> range = new HashMap<>();
+                range.put("startTime", LocalDate.now().minusDays(30).format(timeFormatter));
+                range.put("endTime", LocalDate.now().plusDays(1).format(timeFormatter));
+                return post("/song/trending", range);
+            case "search":
+                Map<String, Object> search = new HashMap<>();
+                search.put("name", NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+                search.put("includeGenres", Collections.singletonList(GENRES[random.nextInt(GENRES.length)]));
+                return post("/song/search", search);
+            default:
+                return get("/song/" + songId + "/similar");
+        }
+    }
+
+    private static LatencyRecorder[] newRecorders() {
+        LatencyRecorder[] recorders = new LatencyRecorder[ENDPOINTS.length];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new LatencyRecorder();
+        }
+        return recorders;
+    }
+
+    private LoadTestReport newReport() {
+        LoadTestReport report = new LoadTestReport();
+        report.setStartedAt(Instant.now().toString());
+        report.setBaseUrl(baseUrl);
+        report.setArtists(artistCount);
+        report.setSongs(songCount);
+        report.setPlays(playCount);
+        report.setThreads(threads);
+        report.setDurationSeconds(durationSeconds);
+        report.setRequestTimeoutSeconds(requestTimeoutSeconds);
+        return report;
+    }
+
+    private static Long readId(JsonNode created, String path) {
+        JsonNode id = created.path("id");
+        if (!id.canConvertToExactIntegral()) {
+            throw new RuntimeException("seeding failed on " + path + ": response has no numeric id, got " + created);
+        }
+        return id.asLong();
+    }
+
+    private static void requireAtLeast(String property, int value, int minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException(property + " must be at least " + minimum + " but was " + value);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new RuntimeException("seeding failed on " + request.uri() + " with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}